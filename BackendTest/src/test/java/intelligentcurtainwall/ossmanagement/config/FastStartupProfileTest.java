@@ -0,0 +1,82 @@
+package intelligentcurtainwall.ossmanagement.config;
+
+import com.aliyun.oss.OSS;
+import intelligentcurtainwall.ossmanagement.controller.AuthenticationController;
+import intelligentcurtainwall.ossmanagement.controller.DeploymentLogsController;
+import intelligentcurtainwall.ossmanagement.controller.DockerLogsController;
+import intelligentcurtainwall.ossmanagement.service.SshService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("fast")
+class FastStartupProfileTest {
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @MockBean
+    private SshService sshService;
+
+    @Test
+    void contextLoadsWithFastProfile() {
+        assertNotNull(context);
+    }
+
+    @Test
+    void configBeansShouldNotBeCreatedAtStartup() {
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+        for (String beanName : new String[]{"ossClient", "authenticationController", "dockerLogsController", "deploymentLogsController"}) {
+            assertTrue(beanFactory.getBeanDefinition(beanName).isLazyInit(), beanName);
+            assertFalse(beanFactory.containsSingleton(beanName), beanName);
+        }
+    }
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    void configShouldBeLoadedOnFirstUse() throws Exception {
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+        when(sshService.executeCommand(anyString(), anyInt(), anyString(), anyString(), anyString()))
+            .thenAnswer(invocation -> new InputStream[]{
+                new ByteArrayInputStream("".getBytes()),
+                new ByteArrayInputStream("".getBytes())
+            });
+
+        assertFalse(beanFactory.containsSingleton("ossClient"));
+        assertInstanceOf(OSS.class, context.getBean("ossClient"));
+
+        // Credentials from the test oss-config.json
+        assertFalse(beanFactory.containsSingleton("authenticationController"));
+        AuthenticationController.AuthenticationResponse response = context.getBean(AuthenticationController.class)
+            .authenticate(new AuthenticationController.AuthenticationRequest("user1", "pass1"));
+        assertEquals("key1", response.accessKeyId());
+        assertEquals("secret1", response.accessKeySecret());
+
+        // Connection settings from the test ssh-config.properties
+        assertFalse(beanFactory.containsSingleton("deploymentLogsController"));
+        context.getBean(DeploymentLogsController.class).getDeploymentLogs();
+        verify(sshService, atLeastOnce()).executeCommand(eq("test-host"), eq(22), eq("test-user"), eq("test-pass"), anyString());
+
+        assertFalse(beanFactory.containsSingleton("dockerLogsController"));
+        context.getBean(DockerLogsController.class).streamDockerLogs("test-container");
+        verify(sshService, timeout(1000)).executeCommand(eq("test-host"), eq(22), eq("test-user"), eq("test-pass"), contains("docker logs -f test-container"));
+    }
+}
@@ -0,0 +1,262 @@
+package intelligentcurtainwall.ossmanagement.controller;
+
+import com.jcraft.jsch.ChannelExec;
+import intelligentcurtainwall.ossmanagement.service.SshService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DockerLogsControllerMultiContainerTest {
+
+    @Mock
+    private SshService sshService;
+
+    @InjectMocks
+    private DockerLogsController controller;
+
+    @Captor
+    private ArgumentCaptor<Runnable> onCompletion;
+
+    @Captor
+    private ArgumentCaptor<Runnable> onTimeout;
+
+    @Captor
+    private ArgumentCaptor<Consumer<Throwable>> onError;
+
+    private final List<String> containerIds = Arrays.asList("container-a", "container-b");
+
+    // Spring Boot 3 default console pattern: ISO-8601 timestamp, then the level padded to five characters
+    private static String bootLine(String level, String message) {
+        return String.format("2025-06-01T10:00:00.123+08:00 %5s 1 --- [main] i.o.controller.OssController     : %s", level, message);
+    }
+
+    private static ChannelExec mockChannel(String stdout, String stderr) throws IOException {
+        ChannelExec channel = mock(ChannelExec.class);
+        // Streams are read on the streaming thread, possibly after the test's last verification
+        lenient().when(channel.getInputStream()).thenReturn(new ByteArrayInputStream(stdout.getBytes()));
+        lenient().when(channel.getErrStream()).thenReturn(new ByteArrayInputStream(stderr.getBytes()));
+        return channel;
+    }
+
+    private DockerLogsController controllerWithEmitter(SseEmitter emitter) {
+        DockerLogsController spyController = spy(controller);
+        doReturn(emitter).when(spyController).createEmitter();
+        return spyController;
+    }
+
+    @Test
+    void streamMultipleDockerLogsShouldTailAllContainersInOneCall() throws Exception {
+        when(sshService.executeCommands(anyString(), anyInt(), anyString(), anyString(), anyList()))
+            .thenReturn(Arrays.asList(mockChannel("a line", ""), mockChannel("b line", "")));
+
+        SseEmitter emitter = controller.streamMultipleDockerLogs(containerIds, null, null);
+        assertNotNull(emitter);
+
+        verify(sshService, timeout(1000)).executeCommands(
+            eq("test-host"),
+            eq(22),
+            eq("test-user"),
+            eq("test-pass"),
+            eq(Arrays.asList("docker logs -f container-a", "docker logs -f container-b"))
+        );
+        verify(sshService, never()).executeCommand(anyString(), anyInt(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void streamMultipleDockerLogsShouldSendTaggedStdoutAndStderrLines() throws Exception {
+        SseEmitter emitter = mock(SseEmitter.class);
+        when(sshService.executeCommands(anyString(), anyInt(), anyString(), anyString(), anyList()))
+            .thenReturn(Arrays.asList(mockChannel("a out", "a err"), mockChannel("b out", "b err")));
+
+        controllerWithEmitter(emitter).streamMultipleDockerLogs(containerIds, null, null);
+
+        verify(emitter, timeout(1000)).send(eq("[container-a] a out"), eq(MediaType.TEXT_PLAIN));
+        verify(emitter, timeout(1000)).send(eq("[container-a] a err"), eq(MediaType.TEXT_PLAIN));
+        verify(emitter, timeout(1000)).send(eq("[container-b] b out"), eq(MediaType.TEXT_PLAIN));
+        verify(emitter, timeout(1000)).send(eq("[container-b] b err"), eq(MediaType.TEXT_PLAIN));
+    }
+
+    @Test
+    void streamMultipleDockerLogsShouldFilterLinesOnServer() throws Exception {
+        SseEmitter emitter = mock(SseEmitter.class);
+        String stdout = bootLine("INFO", "upload started") + "\n" + bootLine("INFO", "no ERROR found in upload");
+        String stderr = bootLine("ERROR", "upload failed") + "\n" + bootLine("ERROR", "download failed");
+        when(sshService.executeCommands(anyString(), anyInt(), anyString(), anyString(), anyList()))
+            .thenReturn(Collections.singletonList(mockChannel(stdout, stderr)));
+
+        controllerWithEmitter(emitter).streamMultipleDockerLogs(Collections.singletonList("container-a"), "ERROR", "upload");
+
+        verify(emitter, timeout(1000)).send(eq("[container-a] " + bootLine("ERROR", "upload failed")), eq(MediaType.TEXT_PLAIN));
+        verify(emitter, after(200).times(1)).send(anyString(), eq(MediaType.TEXT_PLAIN));
+    }
+
+    @Test
+    void streamMultipleDockerLogsShouldRejectUnsafeContainerIds() {
+        List<String> unsafeIds = Arrays.asList("a; rm -rf /", "$(id)", "`id`", "a && id", "a|id", "-f", ".hidden", "");
+
+        for (String unsafeId : unsafeIds) {
+            ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                controller.streamMultipleDockerLogs(Arrays.asList("container-a", unsafeId), null, null));
+            assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode(), unsafeId);
+        }
+
+        verifyNoInteractions(sshService);
+    }
+
+    @Test
+    void streamMultipleDockerLogsShouldRejectMissingContainerIds() {
+        ResponseStatusException empty = assertThrows(ResponseStatusException.class, () ->
+            controller.streamMultipleDockerLogs(Collections.emptyList(), null, null));
+        assertEquals(HttpStatus.BAD_REQUEST, empty.getStatusCode());
+
+        ResponseStatusException missing = assertThrows(ResponseStatusException.class, () ->
+            controller.streamMultipleDockerLogs(null, null, null));
+        assertEquals(HttpStatus.BAD_REQUEST, missing.getStatusCode());
+
+        verifyNoInteractions(sshService);
+    }
+
+    @Test
+    void streamMultipleDockerLogsShouldRejectTooManyContainers() {
+        List<String> tooMany = new ArrayList<>();
+        for (int i = 0; i <= DockerLogsController.MAX_CONTAINERS; i++) {
+            tooMany.add("container-" + i);
+        }
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+            controller.streamMultipleDockerLogs(tooMany, null, null));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        assertEquals(20, DockerLogsController.MAX_CONTAINERS);
+
+        verifyNoInteractions(sshService);
+    }
+
+    @Test
+    void streamMultipleDockerLogsShouldRejectInvalidFilter() {
+        ResponseStatusException invalidRegex = assertThrows(ResponseStatusException.class, () ->
+            controller.streamMultipleDockerLogs(containerIds, null, "("));
+        assertEquals(HttpStatus.BAD_REQUEST, invalidRegex.getStatusCode());
+
+        ResponseStatusException unknownLevel = assertThrows(ResponseStatusException.class, () ->
+            controller.streamMultipleDockerLogs(containerIds, "VERBOSE", null));
+        assertEquals(HttpStatus.BAD_REQUEST, unknownLevel.getStatusCode());
+
+        verifyNoInteractions(sshService);
+    }
+
+    @Test
+    void streamMultipleDockerLogsShouldCloseChannelsWhenEmitterEnds() throws Exception {
+        SseEmitter emitter = mock(SseEmitter.class);
+        ChannelExec channelA = mockChannel("", "");
+        ChannelExec channelB = mockChannel("", "");
+        when(sshService.executeCommands(anyString(), anyInt(), anyString(), anyString(), anyList()))
+            .thenReturn(Arrays.asList(channelA, channelB));
+
+        controllerWithEmitter(emitter).streamMultipleDockerLogs(containerIds, null, null);
+
+        verify(emitter, timeout(1000)).onCompletion(onCompletion.capture());
+        verify(emitter, timeout(1000)).onTimeout(onTimeout.capture());
+        verify(emitter, timeout(1000)).onError(onError.capture());
+
+        onCompletion.getValue().run();
+        verify(channelA, timeout(1000)).disconnect();
+        verify(channelB, timeout(1000)).disconnect();
+
+        onTimeout.getValue().run();
+        verify(channelA, timeout(1000).times(2)).disconnect();
+        verify(channelB, timeout(1000).times(2)).disconnect();
+
+        onError.getValue().accept(new IOException("Broken pipe"));
+        verify(channelA, timeout(1000).times(3)).disconnect();
+        verify(channelB, timeout(1000).times(3)).disconnect();
+    }
+
+    @Test
+    void streamMultipleDockerLogsShouldHandleSshError() throws Exception {
+        SseEmitter emitter = mock(SseEmitter.class);
+        when(sshService.executeCommands(anyString(), anyInt(), anyString(), anyString(), anyList()))
+            .thenThrow(new RuntimeException("SSH error"));
+
+        controllerWithEmitter(emitter).streamMultipleDockerLogs(containerIds, null, null);
+
+        verify(emitter, timeout(1000)).completeWithError(any(RuntimeException.class));
+    }
+
+    @Test
+    void buildLogFilterShouldAcceptEverythingWithoutCriteria() {
+        Predicate<String> filter = controller.buildLogFilter(null, null);
+
+        assertTrue(filter.test(bootLine("DEBUG", "detail")));
+        assertTrue(filter.test("plain output without a level"));
+    }
+
+    @Test
+    void buildLogFilterShouldCombineLevelAndRegex() {
+        Predicate<String> filter = controller.buildLogFilter("ERROR", "upload");
+
+        assertTrue(filter.test(bootLine("ERROR", "upload failed")));
+        assertFalse(filter.test(bootLine("INFO", "upload started")));
+        assertFalse(filter.test(bootLine("ERROR", "download failed")));
+        assertTrue(controller.buildLogFilter(null, "upload.*done").test("upload part 3 done"));
+    }
+
+    // The level of a line is its first whole-word level keyword (TRACE, DEBUG, INFO, WARN, ERROR),
+    // wherever the log pattern puts it; keywords later in the message do not count
+    @Test
+    void buildLogFilterShouldUseFirstLevelKeywordAsLineLevel() {
+        Predicate<String> filter = controller.buildLogFilter("ERROR", null);
+
+        assertTrue(filter.test(bootLine("ERROR", "failed")));
+        assertTrue(filter.test("2025-06-01 10:00:00 ERROR failed"));
+        assertTrue(filter.test("ERROR failed"));
+        assertFalse(filter.test(bootLine("INFO", "no ERROR found")));
+        assertFalse(filter.test("INFO no ERROR found"));
+        assertFalse(filter.test("2025-06-01 10:00:00 ERRORS failed"));
+        assertFalse(filter.test("plain output without a level"));
+    }
+
+    @Test
+    void buildLogFilterShouldTreatLevelAsMinimum() {
+        Predicate<String> filter = controller.buildLogFilter("WARN", null);
+
+        assertTrue(filter.test(bootLine("WARN", "slow upload")));
+        assertTrue(filter.test(bootLine("ERROR", "failed")));
+        assertFalse(filter.test(bootLine("INFO", "started")));
+        assertFalse(filter.test(bootLine("DEBUG", "detail")));
+        assertFalse(filter.test(bootLine("TRACE", "detail")));
+    }
+
+    @Test
+    void buildLogFilterShouldRejectInvalidInput() {
+        ResponseStatusException invalidRegex = assertThrows(ResponseStatusException.class, () -> controller.buildLogFilter(null, "("));
+        assertEquals(HttpStatus.BAD_REQUEST, invalidRegex.getStatusCode());
+
+        ResponseStatusException unknownLevel = assertThrows(ResponseStatusException.class, () -> controller.buildLogFilter("VERBOSE", null));
+        assertEquals(HttpStatus.BAD_REQUEST, unknownLevel.getStatusCode());
+    }
+}
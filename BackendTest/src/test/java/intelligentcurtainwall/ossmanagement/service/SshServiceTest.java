@@ -12,8 +12,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +30,9 @@ class SshServiceTest {
     @Mock
     private Session session;
 
+    @Mock
+    private Session otherSession;
+
     @Mock
     private ChannelExec channel;
 
@@ -75,4 +83,193 @@ class SshServiceTest {
             });
         }
     }
+
+    @Test
+    void executeCommandsShouldOpenOneChannelPerCommandOnOneSession() throws Exception {
+        try (MockedStatic<JSch> mockedJSch = mockStatic(JSch.class)) {
+            mockedJSch.when(JSch::new).thenReturn(jsch);
+
+            List<String> commands = Arrays.asList("docker logs -f container-a", "docker logs -f container-b");
+
+            when(jsch.getSession(username, host, port)).thenReturn(session);
+            when(session.openChannel("exec")).thenReturn(channel);
+
+            List<ChannelExec> result = sshService.executeCommands(host, port, username, password, commands);
+
+            assertNotNull(result);
+            assertEquals(2, result.size());
+            verify(jsch, times(1)).getSession(username, host, port);
+            verify(session, times(1)).connect();
+            verify(session, times(2)).openChannel("exec");
+            verify(channel).setCommand("docker logs -f container-a");
+            verify(channel).setCommand("docker logs -f container-b");
+            verify(channel, times(2)).connect();
+        }
+    }
+
+    @Test
+    void executeCommandsShouldOpenNewSessionWhenChannelLimitReached() throws Exception {
+        try (MockedStatic<JSch> mockedJSch = mockStatic(JSch.class)) {
+            mockedJSch.when(JSch::new).thenReturn(jsch);
+
+            List<String> commands = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                commands.add("docker logs -f container-" + i);
+            }
+
+            when(jsch.getSession(username, host, port)).thenReturn(session);
+            when(session.isConnected()).thenReturn(true);
+            when(session.openChannel("exec")).thenReturn(channel);
+            when(channel.isClosed()).thenReturn(false);
+
+            List<ChannelExec> result = sshService.executeCommands(host, port, username, password, commands);
+
+            assertEquals(12, result.size());
+            assertEquals(10, SshService.MAX_CHANNELS_PER_SESSION);
+            verify(jsch, times(2)).getSession(username, host, port);
+            verify(session, times(2)).connect();
+            verify(session, times(12)).openChannel("exec");
+        }
+    }
+
+    @Test
+    void executeCommandsShouldReleaseCapacityOfClosedChannels() throws Exception {
+        try (MockedStatic<JSch> mockedJSch = mockStatic(JSch.class)) {
+            mockedJSch.when(JSch::new).thenReturn(jsch);
+
+            List<String> commands = new ArrayList<>();
+            for (int i = 0; i < SshService.MAX_CHANNELS_PER_SESSION; i++) {
+                commands.add("docker logs -f container-" + i);
+            }
+
+            when(jsch.getSession(username, host, port)).thenReturn(session);
+            when(session.isConnected()).thenReturn(true);
+            when(session.openChannel("exec")).thenReturn(channel);
+
+            sshService.executeCommands(host, port, username, password, commands);
+            when(channel.isClosed()).thenReturn(true);
+
+            sshService.executeCommands(host, port, username, password, commands);
+
+            verify(jsch, times(1)).getSession(username, host, port);
+            verify(session, times(1)).connect();
+        }
+    }
+
+    @Test
+    void executeCommandsShouldReuseConnectedSession() throws Exception {
+        try (MockedStatic<JSch> mockedJSch = mockStatic(JSch.class)) {
+            mockedJSch.when(JSch::new).thenReturn(jsch);
+
+            when(jsch.getSession(username, host, port)).thenReturn(session);
+            when(session.isConnected()).thenReturn(true);
+            when(session.openChannel("exec")).thenReturn(channel);
+
+            sshService.executeCommands(host, port, username, password, Arrays.asList(command));
+            sshService.executeCommands(host, port, username, password, Arrays.asList(command));
+
+            verify(jsch, times(1)).getSession(username, host, port);
+            verify(session, times(1)).connect();
+        }
+    }
+
+    @Test
+    void executeCommandsShouldReconnectWhenSessionDropped() throws Exception {
+        try (MockedStatic<JSch> mockedJSch = mockStatic(JSch.class)) {
+            mockedJSch.when(JSch::new).thenReturn(jsch);
+
+            when(jsch.getSession(username, host, port)).thenReturn(session);
+            when(session.isConnected()).thenReturn(false);
+            when(session.openChannel("exec")).thenReturn(channel);
+
+            sshService.executeCommands(host, port, username, password, Arrays.asList(command));
+            sshService.executeCommands(host, port, username, password, Arrays.asList(command));
+
+            verify(jsch, times(2)).getSession(username, host, port);
+            verify(session, times(2)).connect();
+            verify(session, times(1)).disconnect();
+            verify(session, times(2)).openChannel("exec");
+        }
+    }
+
+    @Test
+    void executeCommandsShouldKeepSeparateSessionsPerCredentials() throws Exception {
+        try (MockedStatic<JSch> mockedJSch = mockStatic(JSch.class)) {
+            mockedJSch.when(JSch::new).thenReturn(jsch);
+
+            when(jsch.getSession(username, host, port)).thenReturn(session);
+            when(jsch.getSession("other-user", host, port)).thenReturn(otherSession);
+            when(session.openChannel("exec")).thenReturn(channel);
+            when(otherSession.openChannel("exec")).thenReturn(channel);
+
+            sshService.executeCommands(host, port, username, password, Arrays.asList(command));
+            sshService.executeCommands(host, port, "other-user", password, Arrays.asList(command));
+
+            verify(session).setPassword(password);
+            verify(otherSession).setPassword(password);
+            verify(session, times(1)).connect();
+            verify(otherSession, times(1)).connect();
+        }
+    }
+
+    @Test
+    void executeCommandsShouldNotShareSessionAcrossPasswordsHostsOrPorts() throws Exception {
+        try (MockedStatic<JSch> mockedJSch = mockStatic(JSch.class)) {
+            mockedJSch.when(JSch::new).thenReturn(jsch);
+
+            when(jsch.getSession(anyString(), anyString(), anyInt())).thenReturn(session);
+            lenient().when(session.isConnected()).thenReturn(true);
+            when(session.openChannel("exec")).thenReturn(channel);
+
+            sshService.executeCommands(host, port, username, password, Arrays.asList(command));
+            sshService.executeCommands(host, port, username, "other-pass", Arrays.asList(command));
+            sshService.executeCommands("other-host", port, username, password, Arrays.asList(command));
+            sshService.executeCommands(host, 2222, username, password, Arrays.asList(command));
+
+            verify(jsch, times(2)).getSession(username, host, port);
+            verify(jsch, times(1)).getSession(username, "other-host", port);
+            verify(jsch, times(1)).getSession(username, host, 2222);
+            verify(session).setPassword("other-pass");
+            verify(session, times(4)).connect();
+        }
+    }
+
+    @Test
+    void evictIdleSessionsShouldDisconnectSessionsWithoutOpenChannels() throws Exception {
+        try (MockedStatic<JSch> mockedJSch = mockStatic(JSch.class)) {
+            mockedJSch.when(JSch::new).thenReturn(jsch);
+
+            when(jsch.getSession(username, host, port)).thenReturn(session);
+            lenient().when(session.isConnected()).thenReturn(true);
+            when(session.openChannel("exec")).thenReturn(channel);
+            when(channel.isClosed()).thenReturn(true);
+
+            sshService.executeCommands(host, port, username, password, Arrays.asList(command));
+            sshService.evictIdleSessions();
+
+            verify(session).disconnect();
+
+            sshService.executeCommands(host, port, username, password, Arrays.asList(command));
+
+            verify(jsch, times(2)).getSession(username, host, port);
+            verify(session, times(2)).connect();
+        }
+    }
+
+    @Test
+    void evictIdleSessionsShouldKeepSessionsWithOpenChannels() throws Exception {
+        try (MockedStatic<JSch> mockedJSch = mockStatic(JSch.class)) {
+            mockedJSch.when(JSch::new).thenReturn(jsch);
+
+            when(jsch.getSession(username, host, port)).thenReturn(session);
+            lenient().when(session.isConnected()).thenReturn(true);
+            when(session.openChannel("exec")).thenReturn(channel);
+            when(channel.isClosed()).thenReturn(false);
+
+            sshService.executeCommands(host, port, username, password, Arrays.asList(command));
+            sshService.evictIdleSessions();
+
+            verify(session, never()).disconnect();
+        }
+    }
 }
\ No newline at end of file
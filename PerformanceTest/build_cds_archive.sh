@@ -0,0 +1,58 @@
+#!/bin/bash
+
+# Configuration
+APP_JAR="${APP_JAR:-OssManagement.jar}"
+APP_PORT="${APP_PORT:-9000}"
+PROBE_URL="http://localhost:$APP_PORT/authenticate"
+PROBE_BODY='{"userName":"startup-probe","password":"startup-probe"}'
+EXTRACT_DIR="${EXTRACT_DIR:-extracted}"
+CDS_ARCHIVE="${CDS_ARCHIVE:-app-cds.jsa}"
+LOG_DIR="${LOG_DIR:-results}"
+STARTUP_TIMEOUT=120
+
+# Create log directory
+mkdir -p "$LOG_DIR"
+
+# Send a request that goes through the lazily initialized credential store
+probe() {
+  curl -sf -o /dev/null -X POST -H "Content-Type: application/json" -d "$PROBE_BODY" "$PROBE_URL"
+}
+
+# Extract the executable jar so application classes load from plain jars and can be archived
+echo "Extracting application jar..."
+rm -rf "$EXTRACT_DIR"
+if ! java -Djarmode=tools -jar "$APP_JAR" extract --destination "$EXTRACT_DIR" > "$LOG_DIR/extract.log" 2>&1; then
+  echo "Jar extraction failed (requires Spring Boot 3.3+), see $LOG_DIR/extract.log" >&2
+  exit 1
+fi
+EXTRACTED_JAR="$EXTRACT_DIR/$(basename "$APP_JAR")"
+
+# Training run: start the fast profile, serve the first request, then stop with SIGTERM
+# so the archive written at exit covers the lazily initialized request path
+echo "Building AppCDS archive..."
+rm -f "$CDS_ARCHIVE"
+java -XX:ArchiveClassesAtExit="$CDS_ARCHIVE" -Dspring.profiles.active=fast \
+  -jar "$EXTRACTED_JAR" --server.port="$APP_PORT" > "$LOG_DIR/cds_training.log" 2>&1 &
+pid=$!
+start_s=$(date +%s)
+until probe; do
+  if ! kill -0 "$pid" 2>/dev/null; then
+    echo "Training run exited before serving a request, see $LOG_DIR/cds_training.log" >&2
+    exit 1
+  fi
+  if [ $(( $(date +%s) - start_s )) -gt $STARTUP_TIMEOUT ]; then
+    echo "Training run served no successful request within ${STARTUP_TIMEOUT}s" >&2
+    kill -9 "$pid"
+    exit 1
+  fi
+  sleep 0.1
+done
+kill -TERM "$pid"
+wait "$pid"
+
+if [ ! -s "$CDS_ARCHIVE" ]; then
+  echo "Training run did not produce $CDS_ARCHIVE, see $LOG_DIR/cds_training.log" >&2
+  exit 1
+fi
+
+echo "AppCDS archive written to '$CDS_ARCHIVE'. Run with: java -XX:SharedArchiveFile=$CDS_ARCHIVE -jar $EXTRACTED_JAR"
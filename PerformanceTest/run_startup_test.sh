@@ -0,0 +1,83 @@
+#!/bin/bash
+
+# Configuration
+APP_JAR="${APP_JAR:-OssManagement.jar}"
+APP_PORT="${APP_PORT:-9000}"
+PROBE_URL="http://localhost:$APP_PORT/authenticate"
+PROBE_BODY='{"userName":"startup-probe","password":"startup-probe"}'
+EXTRACT_DIR="extracted"
+CDS_ARCHIVE="app-cds.jsa"
+RESULTS_DIR="results"
+STARTUP_TIMEOUT=120
+RUNS=5
+MODES=(default fast fast_cds)
+
+# Create results directory
+mkdir -p "$RESULTS_DIR"
+
+# Send a request that goes through the lazily initialized credential store
+probe() {
+  curl -sf -o /dev/null -X POST -H "Content-Type: application/json" -d "$PROBE_BODY" "$PROBE_URL"
+}
+
+# JVM options for each mode
+mode_options() {
+  case "$1" in
+    default) echo "" ;;
+    fast) echo "-Dspring.profiles.active=fast" ;;
+    fast_cds) echo "-Xshare:on -XX:SharedArchiveFile=$CDS_ARCHIVE -Dspring.profiles.active=fast" ;;
+  esac
+}
+
+# Start the application and report milliseconds until the first served request
+measure_startup() {
+  local label="$1"
+  local start_ms=$(date +%s%3N)
+  java $(mode_options "$label") -jar "$EXTRACTED_JAR" --server.port="$APP_PORT" > "$RESULTS_DIR/startup_$label.log" 2>&1 &
+  local pid=$!
+  until probe; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "$label: application exited before serving a request" >&2
+      return 1
+    fi
+    if [ $(( $(date +%s%3N) - start_ms )) -gt $((STARTUP_TIMEOUT * 1000)) ]; then
+      echo "$label: no successful response within ${STARTUP_TIMEOUT}s" >&2
+      kill "$pid"
+      wait "$pid" 2>/dev/null
+      return 1
+    fi
+    sleep 0.05
+  done
+  local end_ms=$(date +%s%3N)
+  kill "$pid"
+  wait "$pid" 2>/dev/null
+  echo $((end_ms - start_ms))
+}
+
+# Extract the jar and build the AppCDS archive
+APP_JAR="$APP_JAR" APP_PORT="$APP_PORT" EXTRACT_DIR="$EXTRACT_DIR" CDS_ARCHIVE="$CDS_ARCHIVE" LOG_DIR="$RESULTS_DIR" \
+  "$(dirname "$0")/build_cds_archive.sh" || exit 1
+EXTRACTED_JAR="$EXTRACT_DIR/$(basename "$APP_JAR")"
+
+# Discarded warm-up run per mode so no mode pays the cold page cache alone
+echo "Warming up..."
+for mode in "${MODES[@]}"; do
+  measure_startup "$mode" > /dev/null || exit 1
+done
+
+# Measure time to first served request, rotating the mode order each iteration
+echo "Measuring time to first served request..."
+echo "mode,run,time_ms" > "$RESULTS_DIR/startup_results.csv"
+for i in $(seq 1 $RUNS); do
+  for j in "${!MODES[@]}"; do
+    mode="${MODES[$(( (i + j) % ${#MODES[@]} ))]}"
+    time_ms=$(measure_startup "$mode") || exit 1
+    echo "$mode,$i,$time_ms" >> "$RESULTS_DIR/startup_results.csv"
+  done
+done
+
+# Generate report
+awk -F, 'NR > 1 { sum[$1] += $3; count[$1]++ } END { for (mode in sum) printf "%s: %d ms average\n", mode, sum[mode] / count[mode] }' \
+  "$RESULTS_DIR/startup_results.csv" | tee "$RESULTS_DIR/startup_report.txt"
+
+echo "Startup testing completed. Results are in the '$RESULTS_DIR' directory."